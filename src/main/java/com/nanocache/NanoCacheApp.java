@@ -1,40 +1,30 @@
 package com.nanocache;
 
+import com.nanocache.config.NanoCacheConfig;
 import com.nanocache.server.NanoCacheServer;
 
 public class NanoCacheApp {
 
     public static void main(String[] args) {
-        // Default Configuration
-        int port = 8080;
-        int capacity = 1024;
-
-        // Argument Parsing
-        if (args.length > 0) {
-            try {
-                port = Integer.parseInt(args[0]);
-            } catch (NumberFormatException e) {
-                System.err.println("Invalid port number. Using default: " + port);
-            }
-        }
-
-        if (args.length > 1) {
-            try {
-                capacity = Integer.parseInt(args[1]);
-            } catch (NumberFormatException e) {
-                System.err.println("Invalid capacity. Using default: " + capacity);
-            }
+        // Resolve Configuration: defaults < config file < -Dnanocache.* < positional [port] [capacity]
+        NanoCacheConfig config;
+        try {
+            config = NanoCacheConfig.load(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid configuration: " + e.getMessage());
+            System.exit(1);
+            return;
         }
 
         printBanner();
         System.out.println("   [ Configuration ]");
-        System.out.println("   > Port:     " + port);
-        System.out.println("   > Capacity: " + capacity + " items");
-        System.out.println("   > Engine:   Sharded StampedLock (Java 21)");
+        config.asMap().forEach((key, value) ->
+                System.out.printf("   > %-20s %s%n", key + ":", value));
+        System.out.println("   > Engine:              Sharded StampedLock (Java 21)");
         System.out.println("---------------------------------------------");
 
         // Start the Server
-        NanoCacheServer server = new NanoCacheServer(port, capacity);
+        NanoCacheServer server = new NanoCacheServer(config);
         server.start();
     }
 
@@ -0,0 +1,230 @@
+package com.nanocache.config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Server configuration, resolved once at startup.
+ * <p>
+ * Sources, lowest to highest precedence:
+ * <ol>
+ *     <li>Built-in defaults</li>
+ *     <li>A properties file: {@code -Dnanocache.config=path}, or {@code ./nanocache.properties} if present</li>
+ *     <li>System properties prefixed with {@code nanocache.} (e.g. {@code -Dnanocache.segments=32})</li>
+ *     <li>Positional args: {@code [port] [capacity]}</li>
+ * </ol>
+ * Every value is validated on load. Knobs marked runtime-tunable can be changed
+ * later via {@link #set(String, String)} (the {@code CONFIG SET} command).
+ */
+public final class NanoCacheConfig {
+
+    public static final String SYSTEM_PREFIX = "nanocache.";
+    public static final String CONFIG_FILE_PROPERTY = "nanocache.config";
+    public static final String DEFAULT_CONFIG_FILE = "nanocache.properties";
+
+    // --- Keys ---
+    public static final String PORT = "port";
+    public static final String CAPACITY = "capacity";
+    public static final String SEGMENTS = "segments";
+    public static final String EVICTION_POLICY = "eviction.policy";
+    public static final String CLOCK_RESOLUTION_MS = "clock.resolution.ms";
+    public static final String IO_MODE = "io.mode";
+    public static final String IO_BUFFER_SIZE = "io.buffer.size";
+    public static final String THREAD_MODEL = "thread.model";
+
+    public enum EvictionPolicyType { LRU }
+
+    public enum IoMode { BLOCKING }
+
+    public enum ThreadModel { VIRTUAL, PLATFORM }
+
+    // Startup-only (changing them means rebuilding the cache or rebinding the socket)
+    private final int port;
+    private final int capacity;
+    private final int segments;
+    private final EvictionPolicyType evictionPolicy;
+    private final long clockResolutionMillis;
+    private final IoMode ioMode;
+
+    // Runtime-tunable: read once per new connection, so changes apply to the next client
+    private volatile int ioBufferSize;
+    private volatile ThreadModel threadModel;
+
+    private NanoCacheConfig(Properties props) {
+        // 0 = bind any free port (same as ServerSocket), handy for tests
+        this.port = parseInt(props, PORT, 8080, 0, 65535);
+        this.capacity = parseInt(props, CAPACITY, 1024, 1, Integer.MAX_VALUE);
+        // Default: 16 segments, fewer for tiny caches (largest power of two <= capacity)
+        this.segments = parseInt(props, SEGMENTS, Math.min(16, Integer.highestOneBit(capacity)), 1, 1 << 16);
+        // The cache rounds up to a power of two, so anything else would misreport what actually runs
+        if (Integer.bitCount(segments) != 1) {
+            throw new IllegalArgumentException(SEGMENTS + " must be a power of two, got " + segments);
+        }
+        // Every segment gets at least one slot, so more segments than capacity would silently grow the cache.
+        // Only reachable when segments is set explicitly, the default never exceeds capacity.
+        if (segments > capacity) {
+            throw new IllegalArgumentException(SEGMENTS + " (" + segments + ") must not exceed "
+                    + CAPACITY + " (" + capacity + ")");
+        }
+        this.evictionPolicy = parseEnum(props, EVICTION_POLICY, EvictionPolicyType.LRU, EvictionPolicyType.class);
+        this.clockResolutionMillis = parseInt(props, CLOCK_RESOLUTION_MS, 0, 0, 1000);
+        this.ioMode = parseEnum(props, IO_MODE, IoMode.BLOCKING, IoMode.class);
+        this.ioBufferSize = parseInt(props, IO_BUFFER_SIZE, 8192, 64, 16 * 1024 * 1024);
+        this.threadModel = parseEnum(props, THREAD_MODEL, ThreadModel.VIRTUAL, ThreadModel.class);
+
+        // Reject typos instead of silently running with the default
+        Map<String, String> known = asMap();
+        for (String key : props.stringPropertyNames()) {
+            if (!known.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown config key: " + key);
+            }
+        }
+    }
+
+    /**
+     * Builds a config from explicit properties (unprefixed keys), using defaults for anything missing.
+     *
+     * @throws IllegalArgumentException if any value is invalid.
+     */
+    public static NanoCacheConfig fromProperties(Properties props) {
+        return new NanoCacheConfig(props);
+    }
+
+    /**
+     * Resolves the config from all sources (file, system properties, positional args).
+     *
+     * @throws IllegalArgumentException if any value is invalid or the config file can't be read.
+     */
+    public static NanoCacheConfig load(String[] args) {
+        Properties props = new Properties();
+
+        // 1. Config file
+        String explicitFile = System.getProperty(CONFIG_FILE_PROPERTY);
+        Path file = Path.of(explicitFile != null ? explicitFile : DEFAULT_CONFIG_FILE);
+        if (explicitFile != null || Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                props.load(reader);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot read config file " + file + ": " + e.getMessage());
+            }
+        }
+
+        // 2. System properties (nanocache.<key>)
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(SYSTEM_PREFIX) && !name.equals(CONFIG_FILE_PROPERTY)) {
+                props.setProperty(name.substring(SYSTEM_PREFIX.length()), System.getProperty(name));
+            }
+        }
+
+        // 3. Positional args (kept for backwards compatibility)
+        if (args.length > 0) props.setProperty(PORT, args[0]);
+        if (args.length > 1) props.setProperty(CAPACITY, args[1]);
+
+        return new NanoCacheConfig(props);
+    }
+
+    // --- Runtime Access (CONFIG GET / SET) ---
+
+    /**
+     * Returns the current value of a knob as a string.
+     *
+     * @throws IllegalArgumentException if the key is unknown.
+     */
+    public String get(String key) {
+        String value = asMap().get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown config key: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Changes a runtime-tunable knob. The value goes through the same validation as on startup.
+     *
+     * @throws IllegalArgumentException if the key is unknown, not runtime-tunable, or the value is invalid.
+     */
+    public void set(String key, String value) {
+        Properties single = new Properties();
+        single.setProperty(key, value);
+
+        switch (key) {
+            case IO_BUFFER_SIZE -> this.ioBufferSize = parseInt(single, IO_BUFFER_SIZE, 0, 64, 16 * 1024 * 1024);
+            case THREAD_MODEL -> this.threadModel = parseEnum(single, THREAD_MODEL, null, ThreadModel.class);
+            default -> {
+                get(key); // Throws for unknown keys
+                throw new IllegalArgumentException(key + " can only be changed at startup");
+            }
+        }
+    }
+
+    /**
+     * All knobs in display order.
+     */
+    public Map<String, String> asMap() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(PORT, String.valueOf(port));
+        values.put(CAPACITY, String.valueOf(capacity));
+        values.put(SEGMENTS, String.valueOf(segments));
+        values.put(EVICTION_POLICY, evictionPolicy.name());
+        values.put(CLOCK_RESOLUTION_MS, String.valueOf(clockResolutionMillis));
+        values.put(IO_MODE, ioMode.name());
+        values.put(IO_BUFFER_SIZE, String.valueOf(ioBufferSize));
+        values.put(THREAD_MODEL, threadModel.name());
+        return values;
+    }
+
+    // --- Getters ---
+
+    public int port() { return port; }
+
+    public int capacity() { return capacity; }
+
+    public int segments() { return segments; }
+
+    public EvictionPolicyType evictionPolicy() { return evictionPolicy; }
+
+    public long clockResolutionMillis() { return clockResolutionMillis; }
+
+    public IoMode ioMode() { return ioMode; }
+
+    public int ioBufferSize() { return ioBufferSize; }
+
+    public ThreadModel threadModel() { return threadModel; }
+
+    // --- Parsing Helpers ---
+
+    private static int parseInt(Properties props, String key, int defaultValue, int min, int max) {
+        String raw = props.getProperty(key);
+        if (raw == null) return defaultValue;
+
+        int value;
+        try {
+            value = Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be an integer, got '" + raw + "'");
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(key + " must be between " + min + " and " + max + ", got " + value);
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Properties props, String key, E defaultValue, Class<E> type) {
+        String raw = props.getProperty(key);
+        if (raw == null) return defaultValue;
+
+        try {
+            return Enum.valueOf(type, raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(key + " must be one of "
+                    + Arrays.toString(type.getEnumConstants()) + ", got '" + raw + "'");
+        }
+    }
+}
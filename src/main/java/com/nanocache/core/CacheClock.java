@@ -0,0 +1,58 @@
+package com.nanocache.core;
+
+// Time source for TTL expiry checks (reads only).
+// By default every call hits System.currentTimeMillis(). With a coarse resolution,
+// a single daemon thread refreshes a cached timestamp and readers just do a volatile read.
+// Writes compute expiresAt from the precise clock, and the cached time only ever lags
+// behind it, so entries never expire early and live at most 'resolution' ms too long.
+public final class CacheClock {
+
+    private static volatile long cachedMillis;
+    private static volatile boolean coarse;
+    private static Thread ticker;
+    private static long tickMillis;
+
+    private CacheClock() {
+    }
+
+    public static long now() {
+        return coarse ? cachedMillis : System.currentTimeMillis();
+    }
+
+    /**
+     * Switches to a cached clock refreshed every {@code resolutionMillis}.
+     * A resolution of 0 keeps the precise clock. The clock is JVM-wide: repeating the
+     * current resolution is a no-op, asking for a different one throws.
+     */
+    public static synchronized void useResolution(long resolutionMillis) {
+        long current = ticker != null ? tickMillis : 0;
+        if (resolutionMillis == current) return;
+        if (ticker != null || resolutionMillis < 0) {
+            throw new IllegalStateException("Clock resolution is already set to " + current
+                    + " ms, cannot change it to " + resolutionMillis + " ms");
+        }
+
+        tickMillis = resolutionMillis;
+        cachedMillis = System.currentTimeMillis();
+        ticker = Thread.ofPlatform().daemon().name("nanocache-clock").start(() -> {
+            while (true) {
+                cachedMillis = System.currentTimeMillis();
+                try {
+                    Thread.sleep(resolutionMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        coarse = true;
+    }
+
+    // Test hook: stops the ticker and goes back to the precise clock
+    static synchronized void reset() {
+        coarse = false;
+        if (ticker != null) {
+            ticker.interrupt();
+            ticker = null;
+        }
+    }
+}
@@ -5,8 +5,10 @@ import com.nanocache.policy.LRUPolicy;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
 
 public class CacheSegment<K, V> {
 
@@ -22,21 +24,70 @@ public class CacheSegment<K, V> {
         this.capacity = capacity;
     }
 
+    // Expiry times are always computed from the precise clock, only expiry checks use CacheClock.
+    // A stale (coarse) write time would make entries expire early.
     public void put(K key, V value, long ttlMillis) {
         long stamp = lock.writeLock(); // Exclusive Lock (Blocks everyone)
         try {
-            // Eviction Logic: If full and new key, remove LRU item
-            if (map.size() >= capacity && !map.containsKey(key)) {
-                K victim = policy.evict();
-                if (victim != null) {
-                    map.remove(victim);
-                }
+            store(key, value, System.currentTimeMillis() + ttlMillis);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // --- Atomic Operations ---
+    // Each of these does its read-check-write under ONE write lock acquisition,
+    // so callers never have to race a GET against a PUT.
+
+    public Optional<V> putIfAbsent(K key, V value, long ttlMillis) {
+        long stamp = lock.writeLock();
+        try {
+            CacheEntry<V> entry = liveEntry(key);
+            if (entry != null) {
+                return Optional.of(entry.value());
             }
+            store(key, value, System.currentTimeMillis() + ttlMillis);
+            return Optional.empty();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
 
-            long expiresAt = System.currentTimeMillis() + ttlMillis;
-            map.put(key, new CacheEntry<>(value, expiresAt));
-            policy.onPut(key);
+    public boolean replace(K key, V expectedValue, V newValue) {
+        long stamp = lock.writeLock();
+        try {
+            CacheEntry<V> entry = liveEntry(key);
+            if (entry == null || !Objects.equals(entry.value(), expectedValue)) {
+                return false;
+            }
+            // Keep the original expiry: a CAS updates the value, not the lifespan
+            store(key, newValue, entry.expiresAt());
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
 
+    public Optional<V> compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction,
+                               long ttlMillis) {
+        long stamp = lock.writeLock();
+        try {
+            CacheEntry<V> entry = liveEntry(key);
+            V newValue = remappingFunction.apply(key, entry == null ? null : entry.value());
+
+            if (newValue == null) {
+                // Same contract as Map.compute: a null result removes the mapping
+                if (entry != null) {
+                    map.remove(key);
+                    policy.onRemove(key);
+                }
+                return Optional.empty();
+            }
+
+            // Existing entries keep their expiry, new ones get the supplied TTL
+            long expiresAt = entry != null ? entry.expiresAt() : System.currentTimeMillis() + ttlMillis;
+            store(key, newValue, expiresAt);
+            return Optional.of(newValue);
         } finally {
             lock.unlockWrite(stamp);
         }
@@ -92,4 +143,30 @@ public class CacheSegment<K, V> {
         }
         return size;
     }
+
+    // --- Helper Methods (Caller MUST hold the write lock) ---
+
+    // Returns the entry if present and alive. Expired entries are cleaned up lazily, like in get().
+    private CacheEntry<V> liveEntry(K key) {
+        CacheEntry<V> entry = map.get(key);
+        if (entry != null && entry.isExpired()) {
+            map.remove(key);
+            policy.onRemove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private void store(K key, V value, long expiresAt) {
+        // Eviction Logic: If full and new key, remove LRU item
+        if (map.size() >= capacity && !map.containsKey(key)) {
+            K victim = policy.evict();
+            if (victim != null) {
+                map.remove(victim);
+            }
+        }
+
+        map.put(key, new CacheEntry<>(value, expiresAt));
+        policy.onPut(key);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.nanocache.core;
 
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
 
 public interface NanoCache<K, V> {
 
@@ -22,6 +25,69 @@ public interface NanoCache<K, V> {
      */
     Optional<V> get(K key);
 
+    /**
+     * Stores a value only if the key has no live (non-expired) mapping.
+     *
+     * @param key       The key to identify the value.
+     * @param value     The value to store.
+     * @param ttlMillis The lifespan of the entry in milliseconds.
+     * @return An Optional containing the existing value if the key was already present,
+     * otherwise Optional.empty() (meaning the value was stored).
+     */
+    Optional<V> putIfAbsent(K key, V value, long ttlMillis);
+
+    /**
+     * Replaces the value only if the key is currently mapped to the expected value.
+     * The entry keeps its original expiry time.
+     *
+     * @param key           The key to identify the value.
+     * @param expectedValue The value the key must currently hold.
+     * @param newValue      The value to store.
+     * @return true if the value was replaced.
+     */
+    boolean replace(K key, V expectedValue, V newValue);
+
+    /**
+     * Atomically computes a new value from the current one (null if absent or expired).
+     * Returning null removes the entry. Existing entries keep their expiry time,
+     * new entries get the supplied TTL.
+     *
+     * @param key               The key to identify the value.
+     * @param remappingFunction Computes the new value. Runs under the segment lock, so keep it short.
+     * @param ttlMillis         The lifespan in milliseconds if a new entry is created.
+     * @return An Optional containing the new value, or Optional.empty() if the entry was removed.
+     */
+    Optional<V> compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction, long ttlMillis);
+
+    /**
+     * Stores the value if the key is absent, otherwise atomically combines it with
+     * the current value. Returning null removes the entry.
+     *
+     * @param key               The key to identify the value.
+     * @param value             The value to store or combine.
+     * @param remappingFunction Combines (current, value). Runs under the segment lock.
+     * @param ttlMillis         The lifespan in milliseconds if a new entry is created.
+     * @return An Optional containing the new value, or Optional.empty() if the entry was removed.
+     */
+    Optional<V> merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction,
+                      long ttlMillis);
+
+    /**
+     * Atomically adds a delta to a numeric value (absent keys start at 0).
+     * The decoder/encoder pair maps between V and long, e.g. Long::parseLong / Long::toString
+     * for a String cache.
+     *
+     * @param key       The key to identify the counter.
+     * @param delta     The amount to add (may be negative).
+     * @param ttlMillis The lifespan in milliseconds if a new counter is created.
+     * @param decoder   Reads the current value as a long.
+     * @param encoder   Converts the new total back to V.
+     * @return The counter value after the increment.
+     * @throws ArithmeticException if the result overflows a long.
+     */
+    long incrementBy(K key, long delta, long ttlMillis,
+                     ToLongFunction<? super V> decoder, LongFunction<? extends V> encoder);
+
     /**
      * Explicitly removes a value associated with the key.
      *
@@ -1,6 +1,9 @@
 package com.nanocache.core;
 
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
 
 // The main entry point implementing our API
 public class ShardedNanoCacheImpl<K, V> implements NanoCache<K, V> {
@@ -53,6 +56,43 @@ public class ShardedNanoCacheImpl<K, V> implements NanoCache<K, V> {
         return segmentFor(key).get(key);
     }
 
+    @Override
+    public Optional<V> putIfAbsent(K key, V value, long ttlMillis) {
+        return segmentFor(key).putIfAbsent(key, value, ttlMillis);
+    }
+
+    @Override
+    public boolean replace(K key, V expectedValue, V newValue) {
+        return segmentFor(key).replace(key, expectedValue, newValue);
+    }
+
+    @Override
+    public Optional<V> compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction,
+                               long ttlMillis) {
+        return segmentFor(key).compute(key, remappingFunction, ttlMillis);
+    }
+
+    @Override
+    public Optional<V> merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction,
+                             long ttlMillis) {
+        return segmentFor(key).compute(key,
+                (k, current) -> current == null ? value : remappingFunction.apply(current, value),
+                ttlMillis);
+    }
+
+    @Override
+    public long incrementBy(K key, long delta, long ttlMillis,
+                            ToLongFunction<? super V> decoder, LongFunction<? extends V> encoder) {
+        // Capture the long result inside the lock so we don't have to decode it again
+        long[] result = new long[1];
+        segmentFor(key).compute(key, (k, current) -> {
+            long base = current == null ? 0L : decoder.applyAsLong(current);
+            result[0] = Math.addExact(base, delta);
+            return encoder.apply(result[0]);
+        }, ttlMillis);
+        return result[0];
+    }
+
     @Override
     public void remove(K key) {
         segmentFor(key).remove(key);
@@ -1,45 +1,74 @@
 package com.nanocache.server;
 
+import com.nanocache.config.NanoCacheConfig;
+import com.nanocache.core.CacheClock;
 import com.nanocache.core.ShardedNanoCacheImpl;
 import com.nanocache.core.NanoCache;
 
 import java.io.*;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
 
 public class NanoCacheServer {
 
     private final NanoCache<String, String> cache;
-    private final int port;
+    private final NanoCacheConfig config;
+
+    // The port actually bound (differs from config.port() when it is 0), -1 until start() binds
+    private volatile int localPort = -1;
 
     public NanoCacheServer(int port, int capacity) {
-        this.port = port;
-        // Initialize with 16 segments and LRU policy
-        this.cache = new ShardedNanoCacheImpl<>(capacity, 16);
+        this(defaultsWith(port, capacity));
+    }
+
+    public NanoCacheServer(NanoCacheConfig config) {
+        this.config = config;
+        // Applied here (not in main) so every way of building a server honours clock.resolution.ms
+        CacheClock.useResolution(config.clockResolutionMillis());
+        // Segment count comes from config; LRU is currently the only eviction policy
+        this.cache = new ShardedNanoCacheImpl<>(config.capacity(), config.segments());
     }
 
     public void start() {
-        System.out.println("NanoCache Server starting on port " + port);
+        try (ServerSocket serverSocket = new ServerSocket(config.port())) {
+            localPort = serverSocket.getLocalPort();
+            System.out.println("NanoCache Server starting on port " + localPort);
 
-        try (ServerSocket serverSocket = new ServerSocket(port)) {
             while (true) {
                 // Accept new connection (blocking, but that's okay)
                 Socket clientSocket = serverSocket.accept();
 
-                // Virtual Threads!
-                // Instead of 'new Thread()', we use 'Thread.ofVirtual()'
-                Thread.ofVirtual().start(() -> handleClient(clientSocket));
+                // Virtual Threads by default, platform threads if configured.
+                // Read per connection so CONFIG SET thread.model applies to the next client.
+                Thread.Builder builder = switch (config.threadModel()) {
+                    case VIRTUAL -> Thread.ofVirtual();
+                    case PLATFORM -> Thread.ofPlatform();
+                };
+                builder.start(() -> handleClient(clientSocket));
             }
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Returns the port the server is listening on, or -1 if it hasn't bound yet.
+     * Useful with port 0, where the OS picks a free port.
+     */
+    public int getLocalPort() {
+        return localPort;
+    }
+
     private void handleClient(Socket socket) {
+        int bufferSize = config.ioBufferSize();
         try (
                 socket;
-                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-                PrintWriter out = new PrintWriter(socket.getOutputStream(), true)
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()), bufferSize);
+                PrintWriter out = new PrintWriter(
+                        new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()), bufferSize), true)
         ) {
             String line;
             while ((line = in.readLine()) != null) {
@@ -51,7 +80,8 @@ public class NanoCacheServer {
         }
     }
 
-    private String processCommand(String commandLine) {
+    // Package-private for tests
+    String processCommand(String commandLine) {
         String[] parts = commandLine.split(" ");
         String command = parts[0].toUpperCase();
 
@@ -59,6 +89,10 @@ public class NanoCacheServer {
             return switch (command) {
                 case "PUT" -> handlePut(parts);
                 case "GET" -> handleGet(parts);
+                case "SETNX" -> handleSetNx(parts);
+                case "CAS" -> handleCas(parts);
+                case "INCR" -> handleIncr(parts);
+                case "CONFIG" -> handleConfig(parts);
                 default -> "ERROR: Unknown command";
             };
         } catch (Exception e) {
@@ -85,4 +119,73 @@ public class NanoCacheServer {
         String key = parts[1];
         return cache.get(key).orElse("(null)");
     }
+
+    private String handleSetNx(String[] parts) {
+        // Syntax: SETNX key value ttl
+        if (parts.length < 4) return "ERROR: Usage: SETNX <key> <value> <ttl_ms>";
+
+        String key = parts[1];
+        String value = parts[2];
+        long ttl = Long.parseLong(parts[3]);
+
+        // 1 = stored, 0 = key already exists
+        return cache.putIfAbsent(key, value, ttl).isEmpty() ? "1" : "0";
+    }
+
+    private String handleCas(String[] parts) {
+        // Syntax: CAS key expected new
+        if (parts.length < 4) return "ERROR: Usage: CAS <key> <expected> <new>";
+
+        String key = parts[1];
+        String expected = parts[2];
+        String newValue = parts[3];
+
+        // 1 = swapped, 0 = value didn't match (or key missing)
+        return cache.replace(key, expected, newValue) ? "1" : "0";
+    }
+
+    private String handleIncr(String[] parts) {
+        // Syntax: INCR key delta ttl
+        if (parts.length < 4) return "ERROR: Usage: INCR <key> <delta> <ttl_ms>";
+
+        String key = parts[1];
+        long delta = Long.parseLong(parts[2]);
+        long ttl = Long.parseLong(parts[3]);
+
+        // Values are stored as plain decimal strings, so GET keeps working on counters
+        long total = cache.incrementBy(key, delta, ttl, Long::parseLong, Long::toString);
+        return Long.toString(total);
+    }
+
+    private String handleConfig(String[] parts) {
+        // Syntax: CONFIG GET key | CONFIG GET * | CONFIG SET key value
+        if (parts.length < 3) return "ERROR: Usage: CONFIG GET <key|*> | CONFIG SET <key> <value>";
+
+        String action = parts[1].toUpperCase();
+        String key = parts[2];
+
+        return switch (action) {
+            case "GET" -> key.equals("*") ? formatAll(config.asMap()) : config.get(key);
+            case "SET" -> {
+                if (parts.length < 4) yield "ERROR: Usage: CONFIG SET <key> <value>";
+                config.set(key, parts[3]);
+                yield "OK";
+            }
+            default -> "ERROR: Unknown CONFIG action " + parts[1];
+        };
+    }
+
+    private static String formatAll(Map<String, String> values) {
+        // One line per response, so join as key=value pairs
+        return values.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(" "));
+    }
+
+    private static NanoCacheConfig defaultsWith(int port, int capacity) {
+        Properties props = new Properties();
+        props.setProperty(NanoCacheConfig.PORT, String.valueOf(port));
+        props.setProperty(NanoCacheConfig.CAPACITY, String.valueOf(capacity));
+        return NanoCacheConfig.fromProperties(props);
+    }
 }
\ No newline at end of file
@@ -80,6 +80,79 @@ class NanoCacheAppTest {
         assertTrue(smallCache.get("D").isPresent(), "D should exist (newly added)");
     }
 
+    // --- ATOMIC OPERATIONS ---
+
+    @Test
+    @DisplayName("PutIfAbsent: Should only store when key is missing or expired")
+    void testPutIfAbsent() throws InterruptedException {
+        assertTrue(cache.putIfAbsent("lock", "owner1", 100).isEmpty(), "First caller should win");
+        assertEquals("owner1", cache.putIfAbsent("lock", "owner2", 100).get(), "Second caller sees the owner");
+        assertEquals("owner1", cache.get("lock").get());
+
+        // Once expired, the key counts as absent again
+        Thread.sleep(200);
+        assertTrue(cache.putIfAbsent("lock", "owner2", 5000).isEmpty());
+        assertEquals("owner2", cache.get("lock").get());
+    }
+
+    @Test
+    @DisplayName("Replace (CAS): Should swap only when expected value matches")
+    void testCompareAndSet() {
+        assertFalse(cache.replace("missing", "x", "y"), "Missing key should never match");
+
+        cache.put("state", "OPEN", 5000);
+        assertFalse(cache.replace("state", "CLOSED", "HALF"));
+        assertEquals("OPEN", cache.get("state").get());
+
+        assertTrue(cache.replace("state", "OPEN", "CLOSED"));
+        assertEquals("CLOSED", cache.get("state").get());
+    }
+
+    @Test
+    @DisplayName("Compute/Merge: Should keep TTL of existing entries and remove on null")
+    void testComputeAndMerge() throws InterruptedException {
+        cache.put("csv", "a", 100);
+        assertEquals("a,b", cache.merge("csv", "b", (old, v) -> old + "," + v, 5000).get());
+        assertEquals("new", cache.merge("fresh", "new", (old, v) -> old + v, 5000).get());
+
+        // The merge above must NOT have extended the original 100ms TTL
+        Thread.sleep(200);
+        assertFalse(cache.get("csv").isPresent(), "Compute should keep the original expiry");
+
+        cache.put("gone", "data", 5000);
+        assertTrue(cache.compute("gone", (k, v) -> null, 5000).isEmpty());
+        assertFalse(cache.get("gone").isPresent(), "Null result should remove the entry");
+    }
+
+    @Test
+    @DisplayName("IncrementBy: Concurrent increments should never lose updates")
+    void testConcurrentIncrement() throws InterruptedException {
+        int threads = 16;
+        int incrementsPerThread = 1000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            pool.submit(() -> {
+                try {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        cache.incrementBy("hits", 1, 10000, Long::parseLong, Long::toString);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals(String.valueOf(threads * incrementsPerThread), cache.get("hits").get());
+        assertEquals(threads * incrementsPerThread - 5,
+                cache.incrementBy("hits", -5, 10000, Long::parseLong, Long::toString));
+    }
+
     // --- CONCURRENCY STRESS TEST ---
 
     @Test
@@ -0,0 +1,75 @@
+package com.nanocache.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NanoCacheConfigTest {
+
+    private static NanoCacheConfig configOf(String... keyValues) {
+        Properties props = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            props.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return NanoCacheConfig.fromProperties(props);
+    }
+
+    @Test
+    @DisplayName("Defaults: Should match the previous hardcoded server settings")
+    void testDefaults() {
+        NanoCacheConfig config = configOf();
+
+        assertEquals(8080, config.port());
+        assertEquals(1024, config.capacity());
+        assertEquals(16, config.segments());
+        assertEquals(NanoCacheConfig.EvictionPolicyType.LRU, config.evictionPolicy());
+        assertEquals(NanoCacheConfig.ThreadModel.VIRTUAL, config.threadModel());
+    }
+
+    @Test
+    @DisplayName("Small Capacity: Default segment count should shrink instead of failing")
+    void testSmallCapacityDefaults() {
+        // Positional args like 'NanoCacheApp 8080 10' only set capacity
+        NanoCacheConfig config = configOf("capacity", "10");
+
+        assertEquals(10, config.capacity());
+        assertEquals(8, config.segments(), "Largest power of two <= capacity");
+        assertEquals(1, configOf("capacity", "1").segments());
+    }
+
+    @Test
+    @DisplayName("Validation: Should reject bad values and unknown keys at startup")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> configOf("port", "abc"));
+        assertThrows(IllegalArgumentException.class, () -> configOf("segments", "0"));
+        assertThrows(IllegalArgumentException.class, () -> configOf("segments", "10"), "Must be a power of two");
+        assertThrows(IllegalArgumentException.class, () -> configOf("capacity", "4", "segments", "8"),
+                "More segments than capacity would silently raise the real capacity");
+        assertThrows(IllegalArgumentException.class, () -> configOf("eviction.policy", "LFU"));
+        assertThrows(IllegalArgumentException.class, () -> configOf("segmnets", "32"), "Typos should not be ignored");
+
+        assertEquals(NanoCacheConfig.ThreadModel.PLATFORM, configOf("thread.model", "platform").threadModel());
+        assertEquals(0, configOf("port", "0").port(), "Port 0 (any free port) should stay allowed");
+        assertThrows(IllegalArgumentException.class, () -> configOf("port", "65536"));
+    }
+
+    @Test
+    @DisplayName("Runtime Set: Only runtime-tunable knobs can change")
+    void testRuntimeSet() {
+        NanoCacheConfig config = configOf();
+
+        config.set("io.buffer.size", "65536");
+        assertEquals("65536", config.get("io.buffer.size"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> config.set("segments", "32"));
+        assertTrue(e.getMessage().contains("startup"));
+        assertEquals("16", config.get("segments"), "Startup-only knob should be unchanged");
+
+        assertThrows(IllegalArgumentException.class, () -> config.set("io.buffer.size", "1"));
+        assertThrows(IllegalArgumentException.class, () -> config.get("nope"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.nanocache.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Kept separate from the cache tests because the clock is JVM-wide state
+class CacheClockTest {
+
+    @AfterEach
+    void tearDown() {
+        CacheClock.reset();
+    }
+
+    @Test
+    @DisplayName("Coarse Clock: Entries should still expire")
+    void testExpiryWithCoarseClock() throws InterruptedException {
+        CacheClock.useResolution(20);
+        NanoCache<String, String> cache = new ShardedNanoCacheImpl<>(16, 1);
+
+        cache.put("shortLived", "data", 100);
+        assertTrue(cache.get("shortLived").isPresent());
+
+        // TTL + a few ticks of slack (entries may live up to one resolution longer)
+        Thread.sleep(250);
+        assertFalse(cache.get("shortLived").isPresent(), "Item should be expired under the coarse clock");
+    }
+
+    @Test
+    @DisplayName("Coarse Clock: A write just before the next tick should never expire early")
+    void testNoEarlyExpiryWithCoarseClock() throws InterruptedException {
+        // Ticks at t0 and t0+1000
+        CacheClock.useResolution(1000);
+        NanoCache<String, String> cache = new ShardedNanoCacheImpl<>(16, 1);
+
+        // Write at ~t0+700 while the cached clock still says t0.
+        // Expiry must be ~t0+1200, not t0+500 (which the t0+1000 tick would already pass).
+        Thread.sleep(700);
+        cache.put("lock", "owner", 500);
+
+        // ~t0+1100: after the tick, before the real expiry
+        Thread.sleep(400);
+        assertTrue(cache.get("lock").isPresent(), "Entry must not expire before its TTL");
+    }
+
+    @Test
+    @DisplayName("Coarse Clock: Resolution can only be set once per JVM")
+    void testResolutionSetOnce() {
+        CacheClock.useResolution(20);
+        assertThrows(IllegalStateException.class, () -> CacheClock.useResolution(50));
+
+        // Several servers sharing the same config may apply it again
+        assertDoesNotThrow(() -> CacheClock.useResolution(20));
+    }
+}
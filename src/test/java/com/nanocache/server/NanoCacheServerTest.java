@@ -0,0 +1,96 @@
+package com.nanocache.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NanoCacheServerTest {
+
+    // --- COMMAND TESTS (no socket, straight through processCommand) ---
+
+    @Test
+    @DisplayName("INCR: Should create missing counters and add to existing ones")
+    void testIncr() {
+        NanoCacheServer server = new NanoCacheServer(0, 100);
+
+        assertEquals("5", server.processCommand("INCR hits 5 10000"), "Missing key starts at 0");
+        assertEquals("3", server.processCommand("INCR hits -2 10000"));
+        assertEquals("3", server.processCommand("GET hits"), "Counters stay readable with GET");
+    }
+
+    @Test
+    @DisplayName("INCR: Should reject non-numeric values and overflow without changing the value")
+    void testIncrErrors() {
+        NanoCacheServer server = new NanoCacheServer(0, 100);
+
+        server.processCommand("PUT name alice 10000");
+        assertTrue(server.processCommand("INCR name 1 10000").startsWith("ERROR: For input string"));
+        assertEquals("alice", server.processCommand("GET name"));
+
+        server.processCommand("PUT big " + Long.MAX_VALUE + " 10000");
+        assertEquals("ERROR: long overflow", server.processCommand("INCR big 1 10000"));
+        assertEquals(String.valueOf(Long.MAX_VALUE), server.processCommand("GET big"));
+    }
+
+    @Test
+    @DisplayName("SETNX: Should only store the first value")
+    void testSetNx() {
+        NanoCacheServer server = new NanoCacheServer(0, 100);
+
+        assertEquals("1", server.processCommand("SETNX lock owner1 10000"));
+        assertEquals("0", server.processCommand("SETNX lock owner2 10000"));
+        assertEquals("owner1", server.processCommand("GET lock"));
+    }
+
+    @Test
+    @DisplayName("CAS: Should swap only on a matching value")
+    void testCas() {
+        NanoCacheServer server = new NanoCacheServer(0, 100);
+        server.processCommand("PUT state OPEN 10000");
+
+        assertEquals("0", server.processCommand("CAS state CLOSED HALF"));
+        assertEquals("OPEN", server.processCommand("GET state"));
+
+        assertEquals("1", server.processCommand("CAS state OPEN CLOSED"));
+        assertEquals("CLOSED", server.processCommand("GET state"));
+    }
+
+    // --- SOCKET ROUND TRIP ---
+
+    @Test
+    @DisplayName("Port 0: Should bind a free port and expose it")
+    void testEphemeralPortRoundTrip() throws Exception {
+        NanoCacheServer server = new NanoCacheServer(0, 100);
+        assertEquals(-1, server.getLocalPort(), "Not bound before start()");
+
+        // start() blocks forever, so run it on a daemon thread
+        Thread.ofPlatform().daemon().start(server::start);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.getLocalPort() <= 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(server.getLocalPort() > 0, "Server should report the OS-assigned port");
+
+        try (
+                Socket socket = new Socket("localhost", server.getLocalPort());
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), true)
+        ) {
+            assertEquals("OK", send(in, out, "PUT key value 5000"));
+            assertEquals("value", send(in, out, "GET key"));
+        }
+    }
+
+    private static String send(BufferedReader in, PrintWriter out, String command) throws IOException {
+        out.println(command);
+        return in.readLine();
+    }
+}